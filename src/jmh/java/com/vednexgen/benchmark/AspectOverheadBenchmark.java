@@ -0,0 +1,46 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.aop.aspect.LoggingAspect;
+import com.vednexgen.aop.aspect.MethodTimingAspect;
+import com.vednexgen.aop.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of calling the AOP demo service plain, through LoggingAspect and through MethodTimingAspect.
+ * The service itself prints to the console, so all modes include that I/O.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AspectOverheadBenchmark {
+
+    @Param({"none", "logging", "timing"})
+    private String aspect;
+
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new UserService());
+        factory.setProxyTargetClass(true);
+        switch (aspect) {
+            case "logging" -> factory.addAspect(new LoggingAspect());
+            case "timing" -> factory.addAspect(new MethodTimingAspect(new SimpleMeterRegistry()));
+            default -> {
+            }
+        }
+        userService = factory.getProxy();
+    }
+
+    @Benchmark
+    public String getUser() {
+        return userService.getUser();
+    }
+}
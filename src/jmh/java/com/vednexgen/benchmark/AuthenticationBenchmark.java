@@ -0,0 +1,55 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.security.AuthenticationCache;
+import com.vednexgen.security.CacheEvictingUserDetailsManager;
+import com.vednexgen.security.CachingAuthenticationProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentications per second for the HTTP Basic credentials of /api/user/profile,
+ * with the bcrypt check on every request and with the AuthenticationCache in front of it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class AuthenticationBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private ProviderManager authenticationManager;
+
+    @Setup
+    public void setUp() {
+        PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        AuthenticationCache cache = new AuthenticationCache(new SimpleMeterRegistry(), 10_000, Duration.ofSeconds(60));
+        CacheEvictingUserDetailsManager users = new CacheEvictingUserDetailsManager(cache,
+                User.withUsername("user").password(passwordEncoder.encode("password456")).roles("USER").build());
+        DaoAuthenticationProvider passwordCheck = new DaoAuthenticationProvider(users);
+        passwordCheck.setPasswordEncoder(passwordEncoder);
+        AuthenticationProvider provider = cached ? new CachingAuthenticationProvider(passwordCheck, cache) : passwordCheck;
+        authenticationManager = new ProviderManager(provider);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated("user", "password456"));
+    }
+}
@@ -0,0 +1,29 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.SpringBootCourseApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the real application for benchmarks that need beans wired to H2.
+ * Every context gets a random port and its own in-memory database.
+ */
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... args) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        List<String> allArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database,
+                "--logging.file.name=target/benchmark-logs/" + database + ".log",
+                "--logging.level.com.vednexgen=WARN"));
+        allArgs.addAll(List.of(args));
+        return SpringApplication.run(SpringBootCourseApplication.class, allArgs.toArray(String[]::new));
+    }
+}
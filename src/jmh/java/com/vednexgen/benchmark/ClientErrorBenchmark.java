@@ -0,0 +1,51 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.exception_handling.exception.InvalidIdException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The id <= 0 path of GET /employees/{id}: a new IllegalArgumentException with its stack trace, as before,
+ * against the shared stackless InvalidIdException. depth is the number of frames below the throw,
+ * a servlet request easily has a hundred.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientErrorBenchmark {
+
+    @Param({"10", "100"})
+    private int depth;
+
+    @Benchmark
+    public String stackTraceException() {
+        try {
+            return callAt(depth, true);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stacklessException() {
+        try {
+            return callAt(depth, false);
+        } catch (InvalidIdException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static String callAt(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            return callAt(depth - 1, withStackTrace);
+        }
+        if (withStackTrace) {
+            throw new IllegalArgumentException("Invalid ID");
+        }
+        throw InvalidIdException.ZERO;
+    }
+}
@@ -0,0 +1,65 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.exception_handling.model.EmployeeDTO;
+import com.vednexgen.exception_handling.model.ProblemResponse;
+import com.vednexgen.exception_handling.validation.EmployeeDTOValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * POST /employees validation for a valid and an invalid body: Bean Validation plus the old HashMap error body,
+ * against EmployeeDTOValidator plus ProblemResponse. The gc profiler reports the allocation rate of each.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeValidationBenchmark {
+
+    @Param({"valid", "invalid"})
+    private String input;
+
+    private EmployeeDTO employee;
+    private Validator beanValidator;
+    private EmployeeDTOValidator employeeValidator;
+
+    @Setup
+    public void setUp() {
+        employee = input.equals("valid")
+                ? new EmployeeDTO("John", "john@vednexgen.com", 23)
+                : new EmployeeDTO("J", "not-an-email", 12);
+        beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+        employeeValidator = new EmployeeDTOValidator();
+    }
+
+    @Benchmark
+    public Object beanValidation() {
+        Set<ConstraintViolation<EmployeeDTO>> violations = beanValidator.validate(employee);
+        if (violations.isEmpty()) {
+            return violations;
+        }
+        List<String> errors = violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toList());
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("errors", errors);
+        return errorResponse;
+    }
+
+    @Benchmark
+    public Object compiledValidator() {
+        List<String> errors = employeeValidator.validate(employee);
+        return errors.isEmpty() ? errors : ProblemResponse.validation(errors);
+    }
+}
@@ -0,0 +1,126 @@
+package com.vednexgen.benchmark;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP load test: starts the application, keeps {@code concurrency} requests in flight against {@code path}
+ * until {@code requests} have completed, then prints throughput, latency percentiles and the connection pool
+ * statistics of the run. A comma separated concurrency list runs one step per level, which shows where the
+ * pool saturates. Remaining arguments are passed to Spring, e.g. to compare the virtual-threads profile:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.vednexgen.benchmark.EndpointLoadTest \
+ *     -Dexec.args="/users 10000 200000 --spring.profiles.active=virtual-threads"
+ * </pre>
+ * or the prod pool with "/api/employees 8,32,128,512 50000 --spring.profiles.active=prod".
+ */
+public class EndpointLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String path = args.length > 0 ? args[0] : "/students";
+        int[] concurrencyLevels = Arrays.stream((args.length > 1 ? args[1] : "1000").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        String[] springArgs = args.length > 3 ? Arrays.copyOfRange(args, 3, args.length) : new String[0];
+
+        try (ConfigurableApplicationContext context = BenchmarkContexts.start("bench-load", springArgs);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(executor).connectTimeout(Duration.ofSeconds(10)).build()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            run(client, request, Math.min(concurrencyLevels[0], 1000), Math.min(requests, 10_000)); // warm up
+            IO.println("path=" + path + " requests=" + requests + " args=" + Arrays.toString(springArgs));
+            for (int concurrency : concurrencyLevels) {
+                PoolStats before = PoolStats.of(meterRegistry);
+                Result result = run(client, request, concurrency, requests);
+                PoolStats pool = PoolStats.of(meterRegistry).since(before);
+
+                IO.println("concurrency=" + concurrency + " throughput=" + result.throughput()
+                        + " req/s errors=" + result.errors());
+                IO.println("  p50=" + result.percentileMicros(0.50) + "us p99=" + result.percentileMicros(0.99)
+                        + "us p999=" + result.percentileMicros(0.999) + "us max=" + result.percentileMicros(1.0) + "us");
+                IO.println("  pool: acquires=" + pool.acquires() + " mean acquire=" + pool.meanAcquireMicros()
+                        + "us timeouts=" + pool.timeouts() + " max connections=" + pool.maxConnections());
+            }
+        }
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                latencies[index] = System.nanoTime() - sent;
+                if (failure != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                inFlight.release();
+            });
+        }
+        inFlight.acquire(concurrency);
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(latencies, elapsed, errors.get());
+    }
+
+    // Hikari meters from Spring Boot's pool metrics, absent when the endpoint does not touch the database
+    private record PoolStats(long acquires, double acquireNanos, double timeouts, double maxConnections) {
+
+        static PoolStats of(MeterRegistry meterRegistry) {
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+            Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").counter();
+            Gauge max = meterRegistry.find("hikaricp.connections.max").gauge();
+            return new PoolStats(
+                    acquire != null ? acquire.count() : 0,
+                    acquire != null ? acquire.totalTime(TimeUnit.NANOSECONDS) : 0,
+                    timeouts != null ? timeouts.count() : 0,
+                    max != null ? max.value() : 0);
+        }
+
+        PoolStats since(PoolStats before) {
+            return new PoolStats(acquires - before.acquires, acquireNanos - before.acquireNanos,
+                    timeouts - before.timeouts, maxConnections);
+        }
+
+        long meanAcquireMicros() {
+            return acquires == 0 ? 0 : (long) (acquireNanos / acquires / 1_000);
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long elapsedNanos, int errors) {
+
+        long throughput() {
+            return sortedLatencies.length * 1_000_000_000L / elapsedNanos;
+        }
+
+        long percentileMicros(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.clamp(index, 0, sortedLatencies.length - 1)] / 1_000;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.vednexgen.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vednexgen.jpa.user.service.UserService;
+import com.vednexgen.testing.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One GET /users and /api/employees worth of work (query plus JSON) with managed entities (findAll)
+ * against the DTO projections. Heap per request is the gc.alloc.rate.norm column of -prof gc.
+ * The second-level and query cache are off, so every invocation reads the table.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListQueryBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private EmployeeService employeeService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("bench-lists",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        userService = context.getBean("jpaUserService", UserService.class);
+        employeeService = context.getBean(EmployeeService.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> users = new ArrayList<>(rows);
+        List<Object[]> employees = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            users.add(new Object[]{id, "user" + id, "user" + id + "@vednexgen.com"});
+            employees.add(new Object[]{id, "employee" + id});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, name, email) values (?, ?, ?)", users);
+        jdbcTemplate.batchUpdate("insert into employee (id, name) values (?, ?)", employees);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] usersFindAll() throws Exception {
+        return objectMapper.writeValueAsBytes(userService.getAllUsers());
+    }
+
+    @Benchmark
+    public byte[] usersProjection() throws Exception {
+        return objectMapper.writeValueAsBytes(userService.getUserViews());
+    }
+
+    @Benchmark
+    public byte[] employeesFindAll() throws Exception {
+        return objectMapper.writeValueAsBytes(employeeService.getAllEmployees());
+    }
+
+    @Benchmark
+    public byte[] employeesProjection() throws Exception {
+        return objectMapper.writeValueAsBytes(employeeService.getEmployeeViews());
+    }
+}
@@ -0,0 +1,48 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.logger.LoggerExampleController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the /logger handler with the synchronous appenders ("sync-logging" profile)
+ * and with the default async appenders from logback-spring.xml, under contention.
+ * The handler is called directly, so this measures the logging path in isolation, without HTTP, Tomcat threads
+ * or other request work; under load the async queue also fills up and starts dropping INFO and below.
+ * Run EndpointLoadTest against both profiles for end to end numbers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    @Param({"sync-logging", "default"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private LoggerExampleController controller;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("bench-logging",
+                "--spring.profiles.active=" + profile,
+                "--logging.level.com.vednexgen=DEBUG");
+        controller = context.getBean(LoggerExampleController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String getLogger() {
+        return controller.getLogger();
+    }
+}
@@ -0,0 +1,44 @@
+package com.vednexgen.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vednexgen.exception_handling.model.EmployeeDTO;
+import com.vednexgen.vehicle.service.CarService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Jackson cost of the GET /cars body and of an EmployeeDTO
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CarService carService;
+    private EmployeeDTO employee;
+
+    @Setup
+    public void setUp() {
+        carService = new CarService(objectMapper);
+        employee = new EmployeeDTO("John", "john@vednexgen.com", 23);
+    }
+
+    @Benchmark
+    public byte[] cars() throws Exception {
+        return objectMapper.writeValueAsBytes(carService.gatCars());
+    }
+
+    // what GET /cars does now: hand out the bytes serialized when the snapshot was published
+    @Benchmark
+    public byte[] carsSnapshot() {
+        return carService.getSnapshot().json();
+    }
+
+    @Benchmark
+    public byte[] employeeDto() throws Exception {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+}
@@ -0,0 +1,97 @@
+package com.vednexgen.benchmark;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Starts the packaged application {@code runs} times and reports the median time from process start until
+ * GET /hello answers, and the resident set size at that moment (read from /proc, so Linux only).
+ * Arguments starting with -D or -X go to the JVM, the rest to the application, e.g. default against prod:
+ * <pre>
+ * mvn -Pstartup -DskipTests package
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.vednexgen.benchmark.StartupBenchmark \
+ *     -Dexec.args="5 target/application/spring-boot-course-0.0.1-SNAPSHOT.jar \
+ *         -XX:SharedArchiveFile=target/application/application.jsa -Dspring.aot.enabled=true --spring.profiles.active=prod"
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.parseInt(args[0]);
+        String jar = args[1];
+        List<String> jvmArgs = new ArrayList<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : Arrays.copyOfRange(args, 2, args.length)) {
+            (arg.startsWith("-D") || arg.startsWith("-X") ? jvmArgs : appArgs).add(arg);
+        }
+
+        long[] millis = new long[runs];
+        long[] rssKb = new long[runs];
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build()) {
+            for (int run = 0; run < runs; run++) {
+                int port = freePort();
+                List<String> command = new ArrayList<>(List.of("java"));
+                command.addAll(jvmArgs);
+                command.addAll(List.of("-jar", jar, "--server.port=" + port));
+                command.addAll(appArgs);
+
+                long start = System.nanoTime();
+                Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+                try {
+                    awaitFirstRequest(client, port, process);
+                    millis[run] = (System.nanoTime() - start) / 1_000_000;
+                    rssKb[run] = residentSetKb(process.pid());
+                } finally {
+                    process.destroy();
+                    process.waitFor();
+                }
+                IO.println("run " + (run + 1) + ": first request after " + millis[run] + "ms, rss " + rssKb[run] / 1024 + "MB");
+            }
+        }
+        Arrays.sort(millis);
+        Arrays.sort(rssKb);
+        IO.println("jvm args " + jvmArgs + " app args " + appArgs);
+        IO.println("median time-to-first-request " + millis[runs / 2] + "ms, median rss " + rssKb[runs / 2] / 1024 + "MB");
+    }
+
+    private static void awaitFirstRequest(HttpClient client, int port, Process process) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/hello")).build();
+        while (process.isAlive()) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                Thread.sleep(5);
+            }
+        }
+        throw new IllegalStateException("Application exited with code " + process.exitValue());
+    }
+
+    private static long residentSetKb(long pid) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
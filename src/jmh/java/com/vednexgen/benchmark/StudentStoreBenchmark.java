@@ -0,0 +1,70 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.student.model.Student;
+import com.vednexgen.student.service.StudentStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of StudentStore as the number of students grows, next to the linear
+ * ArrayList scan StudentController used before. Store lookups should stay flat.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentStoreBenchmark {
+
+    @Param({"1000", "100000", "500000"})
+    private int size;
+
+    private StudentStore store;
+    private List<Student> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = new StudentStore();
+        list = new ArrayList<>(size);
+        for (int id = 3; id < size + 3; id++) {
+            Student student = new Student(id, "Student" + id, "student" + id + "@nednexgen.com");
+            store.add(student);
+            list.add(student);
+        }
+    }
+
+    private int randomId() {
+        return ThreadLocalRandom.current().nextInt(3, size + 3);
+    }
+
+    @Benchmark
+    public Student storeFindById() {
+        return store.findById(randomId()).orElse(null);
+    }
+
+    @Benchmark
+    public Student storeFindByEmail() {
+        return store.findByEmail("student" + randomId() + "@nednexgen.com").orElse(null);
+    }
+
+    @Benchmark
+    public Student listScanById() {
+        int id = randomId();
+        return list.stream().filter(s -> s.getId() == id).findFirst().orElse(null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Student storeFindByIdWhileWriting() {
+        int id = randomId();
+        if ((id & 15) == 0) {
+            store.update(id, "Student" + id, "student" + id + "@nednexgen.com");
+        }
+        return store.findById(id).orElse(null);
+    }
+}
@@ -0,0 +1,36 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.security.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// bearer token verification, same settings as AuthenticationBenchmark so the two compare directly
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+    private TokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService("", Duration.ofMinutes(15));
+        token = tokenService.issue(UsernamePasswordAuthenticationToken.authenticated(
+                "user", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    @Benchmark
+    public Authentication verify() {
+        return tokenService.verify(token);
+    }
+}
@@ -0,0 +1,80 @@
+package com.vednexgen.benchmark;
+
+import com.vednexgen.jpa.user.entity.User;
+import com.vednexgen.jpa.user.repository.UserRepository;
+import com.vednexgen.jpa.user.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * findByName latency against H2 with and without the uk_users_name index, plus the cached
+ * UserService path. indexed=false drops the constraint to reproduce the old full table scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserLookupBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int rows;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // rows are loaded behind Hibernate's back and the query cache would hide the index, so it stays off here
+        context = BenchmarkContexts.start("bench-users",
+                "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        userRepository = context.getBean(UserRepository.class);
+        userService = context.getBean("jpaUserService", UserService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        if (!indexed) {
+            jdbcTemplate.execute("alter table users drop constraint uk_users_name");
+        }
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (long id = 1; id <= rows; id++) {
+            batch.add(new Object[]{id, "user" + id, "user" + id + "@vednexgen.com"});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate("insert into users (id, name, email) values (?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into users (id, name, email) values (?, ?, ?)", batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private String randomName() {
+        return "user" + ThreadLocalRandom.current().nextInt(1, rows + 1);
+    }
+
+    @Benchmark
+    public User repositoryFindByName() {
+        return userRepository.findByName(randomName()).orElse(null);
+    }
+
+    @Benchmark
+    public User cachedFindByName() {
+        return userService.findByName(randomName());
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.annotation.Order;
 
 import java.util.Arrays;
@@ -19,12 +20,13 @@ public class SpringBootCourseApplication {
 
 	/**
 	 * This method is to inspect the beans provided by Spring Boot application on
-	 * initialization
+	 * initialization, skipped in the "prod" profile to keep it off the startup path
 	 *
 	 * @param ctx ApplicationContext object
 	 * @return
 	 */
 	@Bean("commandLineRunner")
+	@Profile("!prod")
 	@Order(1)
 	public CommandLineRunner commandLineRunner(ApplicationContext ctx) {
 		return args -> {
@@ -40,6 +42,7 @@ public class SpringBootCourseApplication {
 	}
 
 	@Bean("aopRunner")
+	@Profile("!prod")
 	@Order(2)
 	CommandLineRunner aopRunner(UserService userService) {
 		// uncomment the below code to understand example for Spring AOP.
@@ -1,23 +1,75 @@
 package com.vednexgen.actuator;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The real check runs in the background every refresh-interval and is abandoned after timeout,
+ * health() only returns the last result, so polling /actuator/health costs a volatile read.
+ */
 @Component("customServcie")
-public class CustomServiceHealthIndicator implements HealthIndicator {
+public class CustomServiceHealthIndicator implements HealthIndicator, DisposableBean {
+
+    private static final Health RUNNING = Health.up().withDetail("customService", "Running Smoothly").build();
+    private static final Health NOT_RESPONDING = Health.down().withDetail("customService", "Not Responding").build();
+    private static final Health TIMED_OUT = Health.down().withDetail("customService", "Check timed out").build();
+
+    private final CustomServiceState customServiceState;
+    private final Duration timeout;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("custom-service-health").daemon().factory());
+    // a hung check must not hold up the scheduler, so every check gets its own virtual thread
+    private final ExecutorService checks = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile Health lastHealth = Health.unknown().build();
+
+    public CustomServiceHealthIndicator(CustomServiceState customServiceState,
+                                        @Value("${app.health.custom-service.refresh-interval:5s}") Duration refreshInterval,
+                                        @Value("${app.health.custom-service.timeout:2s}") Duration timeout) {
+        this.customServiceState = customServiceState;
+        this.timeout = timeout;
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
 
     @Override
     public Health health() {
-        boolean serviceRunning = checkCustomService();
-        if (serviceRunning) {
-            return Health.up().withDetail("customService", "Running Smoothly").build();
+        return lastHealth;
+    }
+
+    void refresh() {
+        Future<Boolean> check = checks.submit(this::checkCustomService);
+        try {
+            lastHealth = check.get(timeout.toMillis(), TimeUnit.MILLISECONDS) ? RUNNING : NOT_RESPONDING;
+        } catch (TimeoutException e) {
+            check.cancel(true);
+            lastHealth = TIMED_OUT;
+        } catch (ExecutionException e) {
+            lastHealth = Health.down(e.getCause()).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        return Health.down().withDetail("customService", "Not Responding").build();
     }
 
     private boolean checkCustomService() {
         // Simulate health check
-        return CustomServiceToggleController.serviceFlag;
+        return customServiceState.isRunning();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        checks.shutdownNow();
     }
-}
\ No newline at end of file
+}
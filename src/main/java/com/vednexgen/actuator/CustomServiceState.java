@@ -0,0 +1,24 @@
+package com.vednexgen.actuator;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// shared, thread safe running flag of the simulated custom service
+@Component
+public class CustomServiceState {
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public boolean toggle() {
+        boolean current;
+        do {
+            current = running.get();
+        } while (!running.compareAndSet(current, !current));
+        return !current;
+    }
+}
@@ -6,11 +6,15 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class CustomServiceToggleController {
 
-    public static boolean serviceFlag;
+    private final CustomServiceState customServiceState;
+
+    public CustomServiceToggleController(CustomServiceState customServiceState) {
+        this.customServiceState = customServiceState;
+    }
 
     @GetMapping("/toggleFlag")
     public String toggleFlag() {
-        serviceFlag = !serviceFlag;
+        boolean serviceFlag = customServiceState.toggle();
         IO.println(serviceFlag);
         return "OK";
     }
@@ -0,0 +1,21 @@
+package com.vednexgen.actuator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class HealthProbeConfig {
+
+    // only health URLs pass through the filter, every other request skips it
+    @Bean
+    public FilterRegistrationBean<HealthProbeMetricsFilter> healthProbeMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<HealthProbeMetricsFilter> registration =
+                new FilterRegistrationBean<>(new HealthProbeMetricsFilter(meterRegistry));
+        registration.addUrlPatterns("/actuator/health", "/actuator/health/*", "/livez", "/readyz");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package com.vednexgen.actuator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response time of health polls per probe, published as "health.probe" tagged with the group,
+ * so the cost of frequent probing is visible next to the real traffic.
+ */
+public class HealthProbeMetricsFilter extends OncePerRequestFilter {
+
+    private final Timer liveness;
+    private final Timer readiness;
+    private final Timer health;
+
+    public HealthProbeMetricsFilter(MeterRegistry meterRegistry) {
+        this.liveness = probeTimer(meterRegistry, "liveness");
+        this.readiness = probeTimer(meterRegistry, "readiness");
+        this.health = probeTimer(meterRegistry, "all");
+    }
+
+    private static Timer probeTimer(MeterRegistry meterRegistry, String group) {
+        return Timer.builder("health.probe")
+                .description("Response time of health probe requests")
+                .tag("group", group)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            timerFor(request.getRequestURI()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timerFor(String uri) {
+        if (uri.endsWith("/livez") || uri.endsWith("/liveness")) {
+            return liveness;
+        }
+        if (uri.endsWith("/readyz") || uri.endsWith("/readiness")) {
+            return readiness;
+        }
+        return health;
+    }
+}
@@ -0,0 +1,201 @@
+package com.vednexgen.actuator;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records every request under its route template (e.g. /students/{id}, never the raw URI):
+ * <ul>
+ *     <li>app.http.server.requests - latency histogram tagged with method, route, status and outcome,
+ *     the outcome tag gives the error rate</li>
+ *     <li>app.http.server.requests.active - requests currently in flight</li>
+ *     <li>app.http.server.request.size / response.size - payload bytes per route</li>
+ * </ul>
+ * Meters are registered once per route, method and status, after that a request costs a map lookup.
+ * Per route in-flight counts come from {@link RouteInFlightInterceptor}.
+ */
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger active = new AtomicInteger();
+    private final ConcurrentHashMap<MeterKey, RouteMeters> meters = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("app.http.server.requests.active", active);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        active.incrementAndGet();
+        CountingResponse countingResponse = new CountingResponse(response);
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, countingResponse);
+            if (request.isAsyncStarted()) {
+                // streamed responses finish later on another thread
+                async = true;
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(request, countingResponse, start);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            }
+        } finally {
+            if (!async) {
+                record(request, countingResponse, start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, CountingResponse response, long start) {
+        active.decrementAndGet();
+        RouteMeters routeMeters = metersFor(new MeterKey(route(request), request.getMethod(), response.getStatus()));
+        routeMeters.latency().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (request.getContentLengthLong() > 0) {
+            routeMeters.requestSize().record(request.getContentLengthLong());
+        }
+        routeMeters.responseSize().record(response.bytesWritten());
+    }
+
+    private RouteMeters metersFor(MeterKey key) {
+        RouteMeters routeMeters = meters.get(key);
+        if (routeMeters != null) {
+            return routeMeters;
+        }
+        return meters.computeIfAbsent(key, k -> new RouteMeters(
+                Timer.builder("app.http.server.requests")
+                        .description("Request latency per route")
+                        .tag("method", k.method())
+                        .tag("route", k.route())
+                        .tag("status", String.valueOf(k.status()))
+                        .tag("outcome", outcome(k.status()))
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("app.http.server.request.size")
+                        .baseUnit("bytes")
+                        .tag("route", k.route())
+                        .register(meterRegistry),
+                DistributionSummary.builder("app.http.server.response.size")
+                        .baseUnit("bytes")
+                        .tag("route", k.route())
+                        .register(meterRegistry)));
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+    }
+
+    private static String outcome(int status) {
+        if (status >= 500) {
+            return "SERVER_ERROR";
+        }
+        if (status >= 400) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+
+    private record MeterKey(String route, String method, int status) {
+    }
+
+    private record RouteMeters(Timer latency, DistributionSummary requestSize, DistributionSummary responseSize) {
+    }
+
+    // counts body bytes written through getOutputStream(), falls back to Content-Length for writer output
+    private static class CountingResponse extends HttpServletResponseWrapper {
+
+        private long count;
+        private ServletOutputStream outputStream;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        long bytesWritten() {
+            if (count > 0) {
+                return count;
+            }
+            String contentLength = getHeader(HttpHeaders.CONTENT_LENGTH);
+            return contentLength != null ? Long.parseLong(contentLength) : 0;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        count++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        count += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.vednexgen.actuator;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-flight requests per route template, as the app.http.server.requests.active.route gauge.
+ * Routes are only known once a handler is mapped, which is why this is an interceptor and not part of the filter.
+ */
+public class RouteInFlightInterceptor implements HandlerInterceptor {
+
+    private static final String COUNTED_ATTRIBUTE = RouteInFlightInterceptor.class.getName() + ".counter";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, AtomicInteger> inFlightByRoute = new ConcurrentHashMap<>();
+
+    public RouteInFlightInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // async dispatches of a streamed response were already counted by the original request
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                AtomicInteger inFlight = inFlightByRoute.computeIfAbsent(pattern.toString(), this::registerGauge);
+                inFlight.incrementAndGet();
+                request.setAttribute(COUNTED_ATTRIBUTE, inFlight);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(COUNTED_ATTRIBUTE) instanceof AtomicInteger inFlight) {
+            inFlight.decrementAndGet();
+            request.removeAttribute(COUNTED_ATTRIBUTE);
+        }
+    }
+
+    private AtomicInteger registerGauge(String route) {
+        AtomicInteger inFlight = new AtomicInteger();
+        Gauge.builder("app.http.server.requests.active.route", inFlight, AtomicInteger::get)
+                .description("Requests in flight per route")
+                .tag("route", route)
+                .register(meterRegistry);
+        return inFlight;
+    }
+}
@@ -0,0 +1,15 @@
+package com.vednexgen.aop.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records the execution time of the annotated method, or of every public method of the annotated class,
+ * into the "method.timed" timer. See {@link com.vednexgen.aop.aspect.MethodTimingAspect}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimedMethod {
+}
@@ -3,10 +3,14 @@ package com.vednexgen.aop.aspect;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+// Course demo of every advice type. It prints on each call, so it is off unless
+// app.aop.logging-aspect.enabled=true; method timing is done by MethodTimingAspect.
 @Aspect
 @Component
+@ConditionalOnProperty(name = "app.aop.logging-aspect.enabled", havingValue = "true")
 public class LoggingAspect {
 
     @Before("execution(* com.vednexgen.aop.service.*.*(..))")
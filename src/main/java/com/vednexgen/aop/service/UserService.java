@@ -1,8 +1,10 @@
 package com.vednexgen.aop.service;
 
+import com.vednexgen.aop.annotation.TimedMethod;
 import org.springframework.stereotype.Service;
 
 @Service("aopUserService")
+@TimedMethod
 public class UserService {
 
     public void addUser(String name) {
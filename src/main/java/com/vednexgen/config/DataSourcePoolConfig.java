@@ -0,0 +1,31 @@
+package com.vednexgen.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class DataSourcePoolConfig {
+
+    /**
+     * Sizes the Hikari pool from the number of cores when app.datasource.connections-per-core is set
+     * (prod profile), as a fixed size pool: minimum idle equals maximum size.
+     */
+    @Bean
+    static BeanPostProcessor hikariPoolSizing(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                int connectionsPerCore = environment.getProperty("app.datasource.connections-per-core", Integer.class, 0);
+                if (bean instanceof HikariDataSource dataSource && connectionsPerCore > 0) {
+                    int poolSize = Runtime.getRuntime().availableProcessors() * connectionsPerCore;
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.vednexgen.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Caffeine backed JCache regions for Hibernate's second-level and query cache.
+ * Every region is size bounded, query results also expire after app.second-level-cache.query-ttl.
+ * The update timestamps region is what invalidates cached queries when a table changes, so it never expires.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String EMPLOYEE_REGION = "employee";
+    public static final String USERS_REGION = "users";
+
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(@Value("${app.second-level-cache.maximum-size:10000}") long maximumSize,
+                                       @Value("${app.second-level-cache.query-ttl:10m}") Duration queryTtl) {
+        // a provider instance of its own instead of the JVM-wide one from Caching, so every application context
+        // (test contexts, benchmarks) gets its own regions and closing one context does not close the others'
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), provider.getDefaultClassLoader());
+        cacheManager.createCache(EMPLOYEE_REGION, region(maximumSize, null));
+        cacheManager.createCache(USERS_REGION, region(maximumSize, null));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(maximumSize, queryTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(maximumSize, null));
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,98 @@
+package com.vednexgen.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary/replica routing, active when app.datasource.replica.url is set (read-replica profile).
+ * Connections are handed out lazily: a transaction marked {@code @Transactional(readOnly = true)} has set its
+ * connection read-only before the first statement, so it is routed to the replica pool, everything else to the
+ * primary. A client that has just written reads from the primary as well, see {@link WriteStickiness}.
+ * Connections handed out per route are counted as "app.datasource.route.connections".
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                       @Value("${app.datasource.replica.url}") String url) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(properties.determineUsername())
+                .password(properties.determinePassword())
+                .build();
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    WriteStickiness writeStickiness(@Value("${app.datasource.replica.sticky-window:2s}") Duration window) {
+        return new WriteStickiness(window);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                          WriteStickiness writeStickiness, MeterRegistry meterRegistry) {
+        DataSource primary = counted(primaryDataSource, PRIMARY, meterRegistry);
+        DataSource replica = counted(replicaDataSource, REPLICA, meterRegistry);
+
+        AbstractRoutingDataSource reads = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return writeStickiness.isSticky() ? PRIMARY : REPLICA;
+            }
+        };
+        reads.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        reads.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(reads);
+        return dataSource;
+    }
+
+    private static DataSource counted(DataSource target, String route, MeterRegistry meterRegistry) {
+        Counter connections = Counter.builder("app.datasource.route.connections")
+                .description("Connections handed out per route, one per transaction")
+                .tag("route", route)
+                .register(meterRegistry);
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                connections.increment();
+                return super.getConnection();
+            }
+        };
+    }
+}
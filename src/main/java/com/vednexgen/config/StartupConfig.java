@@ -0,0 +1,17 @@
+package com.vednexgen.config;
+
+import com.vednexgen.actuator.CustomServiceHealthIndicator;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    // beans that must run from startup even with spring.main.lazy-initialization (prod profile):
+    // the health indicator starts its background check on creation, so readiness is known before the first probe
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(CustomServiceHealthIndicator.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.vednexgen.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Read-your-writes for the replica routing, per client: a committed read-write transaction in a web request
+ * sends that client a cookie, and read-only work of its requests stays on the primary until the cookie's time
+ * (app.datasource.replica.sticky-window) is up. Work outside a web request always reads from the replica.
+ * Registered with the transaction manager as a TransactionExecutionListener.
+ */
+public class WriteStickiness implements TransactionExecutionListener {
+
+    static final String COOKIE = "read-primary-until";
+    private static final String STICKY_UNTIL = WriteStickiness.class.getName() + ".STICKY_UNTIL";
+
+    private final Duration window;
+
+    public WriteStickiness(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        long stickyUntil = System.currentTimeMillis() + window.toMillis();
+        attributes.setAttribute(STICKY_UNTIL, stickyUntil, RequestAttributes.SCOPE_REQUEST);
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE, String.valueOf(stickyUntil));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+    }
+
+    public boolean isSticky() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return false;
+        }
+        Long stickyUntil = (Long) attributes.getAttribute(STICKY_UNTIL, RequestAttributes.SCOPE_REQUEST);
+        if (stickyUntil == null) {
+            stickyUntil = fromCookie(attributes.getRequest());
+            attributes.setAttribute(STICKY_UNTIL, stickyUntil, RequestAttributes.SCOPE_REQUEST);
+        }
+        return System.currentTimeMillis() < stickyUntil;
+    }
+
+    private static long fromCookie(HttpServletRequest request) {
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -1,48 +1,46 @@
 package com.vednexgen.exception_handling.controller;
 
+import com.vednexgen.exception_handling.exception.InvalidIdException;
 import com.vednexgen.exception_handling.model.EmployeeDTO;
-import jakarta.validation.Valid;
+import com.vednexgen.exception_handling.model.ProblemResponse;
+import com.vednexgen.exception_handling.validation.EmployeeDTOValidator;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.BindingResult;
-import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController("excpHandlingEmployeeController")
 @RequestMapping("/employees")
 public class EmployeeController {
 
+    private final EmployeeDTOValidator employeeValidator;
+
+    public EmployeeController(EmployeeDTOValidator employeeValidator) {
+        this.employeeValidator = employeeValidator;
+    }
+
+    // bad ids are answered with 400 by GlobalExceptionHandler, the shared exceptions carry no stack trace
     @GetMapping("/{id}")
     public EmployeeDTO getUser(@PathVariable int id) {
         if (id == 0) {
-            throw new IllegalArgumentException("Invalid ID");
+            throw InvalidIdException.ZERO;
         } else if (id < 0) {
-            throw new RuntimeException("Id cannot be negative");
+            throw InvalidIdException.NEGATIVE;
         }
         return new EmployeeDTO("John", "john@vednexgen.com", 23);
     }
 
-    @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<String> handleInvalidId(IllegalArgumentException ex) {
-        return ResponseEntity.badRequest().body(ex.getMessage());
-    }
-
+    // validated by EmployeeDTOValidator instead of @Valid, see the constraints on EmployeeDTO
     @PostMapping
-    public ResponseEntity<?> createUser(@Valid @RequestBody EmployeeDTO user, BindingResult result) {
-        if (result.hasErrors()) {
-            List<String> errors = result.getFieldErrors()
-                    .stream()
-                    .map(FieldError::getDefaultMessage)
-                    .collect(Collectors.toList());
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("errors", errors);
-            return ResponseEntity.badRequest().body(errorResponse);
+    public ResponseEntity<?> createUser(@RequestBody EmployeeDTO user) {
+        List<String> errors = employeeValidator.validate(user);
+        if (!errors.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                    .body(ProblemResponse.validation(errors));
         }
         return ResponseEntity.ok("User created successfully");
     }
 
-}
\ No newline at end of file
+}
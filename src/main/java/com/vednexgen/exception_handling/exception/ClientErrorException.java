@@ -0,0 +1,32 @@
+package com.vednexgen.exception_handling.exception;
+
+import com.vednexgen.exception_handling.model.ProblemResponse;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * Base of expected client errors (bad ids, unknown resources ...) and expected refusals such as a full
+ * or stopped write queue. These are control flow, not bugs:
+ * no stack trace is captured, the status and response body are fixed when the exception is created,
+ * and {@link GlobalExceptionHandler} maps every subclass the same way. Instances can be shared.
+ */
+public abstract class ClientErrorException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final ProblemResponse problem;
+
+    protected ClientErrorException(HttpStatus status, String message) {
+        super(message, null, false, false);
+        this.status = status;
+        this.problem = new ProblemResponse("about:blank", status.getReasonPhrase(), status.value(), message, List.of());
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public ProblemResponse getProblem() {
+        return problem;
+    }
+}
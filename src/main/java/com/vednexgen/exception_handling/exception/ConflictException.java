@@ -0,0 +1,12 @@
+package com.vednexgen.exception_handling.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ConflictException extends ClientErrorException {
+
+    public static final ConflictException DUPLICATE_EMAIL = new ConflictException("Email is already used by another student");
+
+    public ConflictException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -1,16 +1,63 @@
 package com.vednexgen.exception_handling.exception;
 
+import com.vednexgen.exception_handling.model.ProblemResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<Class<?>, Counter> clientErrorCounters = new ConcurrentHashMap<>();
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // expected client errors, counted per type in app.client.errors
+    @ExceptionHandler(ClientErrorException.class)
+    public ResponseEntity<ProblemResponse> handleClientError(ClientErrorException ex) {
+        clientErrorCounters.computeIfAbsent(ex.getClass(), type -> Counter.builder("app.client.errors")
+                        .description("Expected client errors mapped by GlobalExceptionHandler")
+                        .tag("exception", type.getSimpleName())
+                        .tag("status", String.valueOf(ex.getStatus().value()))
+                        .register(meterRegistry))
+                .increment();
+        return ResponseEntity.status(ex.getStatus())
+                             .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                             .body(ex.getProblem());
+    }
+
+    // same problem body, plus the committed count as a header so a client can resume the batch
+    @ExceptionHandler(PartialBatchException.class)
+    public ResponseEntity<ProblemResponse> handlePartialBatch(PartialBatchException ex) {
+        ResponseEntity<ProblemResponse> response = handleClientError(ex);
+        return ResponseEntity.status(response.getStatusCode())
+                             .headers(response.getHeaders())
+                             .header("X-Saved-Count", String.valueOf(ex.getSaved()))
+                             .body(response.getBody());
+    }
+
+    // e.g. a second user with an existing name (uk_users_name)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemResponse> handleConstraintViolation(DataIntegrityViolationException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                             .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                             .body(ProblemResponse.CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<String> handleGeneralException(Exception ex) {
+    public ResponseEntity<ProblemResponse> handleGeneralException(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                             .body("Something went wrong: " + ex.getMessage());
+                             .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                             .body(ProblemResponse.internalError(ex.getMessage()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.vednexgen.exception_handling.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidIdException extends ClientErrorException {
+
+    public static final InvalidIdException ZERO = new InvalidIdException("Invalid ID");
+    public static final InvalidIdException NEGATIVE = new InvalidIdException("Id cannot be negative");
+    public static final InvalidIdException CLIENT_ASSIGNED = new InvalidIdException("Id is assigned by the server");
+
+    public InvalidIdException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.vednexgen.exception_handling.exception;
+
+import org.springframework.http.HttpStatus;
+
+// unreadable record in a streamed bulk insert, the records before the current chunk are already committed
+public class PartialBatchException extends ClientErrorException {
+
+    private final int saved;
+
+    public PartialBatchException(int saved, RuntimeException cause) {
+        super(HttpStatus.BAD_REQUEST, "Unreadable record (" + cause.getMessage() + "). The first " + saved
+                + " records were saved, resend from record " + (saved + 1));
+        this.saved = saved;
+    }
+
+    public int getSaved() {
+        return saved;
+    }
+}
@@ -0,0 +1,13 @@
+package com.vednexgen.exception_handling.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends ClientErrorException {
+
+    public static final ServiceUnavailableException WRITE_BEHIND_STOPPED =
+            new ServiceUnavailableException("Queued writes are not being flushed");
+
+    public ServiceUnavailableException(String message) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.vednexgen.exception_handling.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends ClientErrorException {
+
+    public static final TooManyRequestsException WRITE_QUEUE_FULL =
+            new TooManyRequestsException("Write queue is full, retry later");
+
+    public TooManyRequestsException(String message) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.vednexgen.exception_handling.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Problem details (RFC 9457) body with a fixed shape, served as application/problem+json.
+ * Responses without per-request data are created once and reused.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ProblemResponse(String type, String title, int status, String detail, List<String> errors) {
+
+    public static final ProblemResponse CONFLICT =
+            new ProblemResponse("about:blank", "Conflict", 409, "Request conflicts with existing data", List.of());
+
+    public static ProblemResponse validation(List<String> errors) {
+        return new ProblemResponse("about:blank", "Bad Request", 400, "Validation failed", errors);
+    }
+
+    public static ProblemResponse internalError(String detail) {
+        return new ProblemResponse("about:blank", "Internal Server Error", 500, detail, List.of());
+    }
+}
@@ -0,0 +1,85 @@
+package com.vednexgen.exception_handling.validation;
+
+import com.vednexgen.exception_handling.model.EmployeeDTO;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Hand-compiled check of the EmployeeDTO constraints. The limits and messages are read from the annotations
+ * once at startup, so they stay in one place, and validate() is plain field checks without Bean Validation's
+ * per-call metadata walk. A valid DTO costs no allocation.
+ */
+@Component
+public class EmployeeDTOValidator {
+
+    // same shape Hibernate Validator's @Email accepts: atom characters, '@', dot separated domain labels
+    private static final Pattern EMAIL = Pattern.compile(
+            "[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+(\\.[a-zA-Z0-9!#$%&'*+/=?^_`{|}~-]+)*"
+                    + "@[a-zA-Z0-9]([a-zA-Z0-9-]*[a-zA-Z0-9])?(\\.[a-zA-Z0-9]([a-zA-Z0-9-]*[a-zA-Z0-9])?)*");
+
+    private final String nameNullMessage;
+    private final int nameMin;
+    private final int nameMax;
+    private final String nameSizeMessage;
+    private final String emailMessage;
+    private final long ageMin;
+    private final String ageMessage;
+
+    public EmployeeDTOValidator() {
+        Field name = field("name");
+        this.nameNullMessage = name.getAnnotation(NotNull.class).message();
+        Size size = name.getAnnotation(Size.class);
+        this.nameMin = size.min();
+        this.nameMax = size.max();
+        this.nameSizeMessage = size.message();
+        this.emailMessage = field("email").getAnnotation(Email.class).message();
+        Min min = field("age").getAnnotation(Min.class);
+        this.ageMin = min.value();
+        this.ageMessage = min.message();
+    }
+
+    /**
+     * @return the violated constraint messages, an empty immutable list when the DTO is valid
+     */
+    public List<String> validate(EmployeeDTO employee) {
+        List<String> errors = null;
+        String name = employee.getName();
+        if (name == null) {
+            errors = add(errors, nameNullMessage);
+        } else if (name.length() < nameMin || name.length() > nameMax) {
+            errors = add(errors, nameSizeMessage);
+        }
+        String email = employee.getEmail();
+        if (email != null && !email.isEmpty() && !EMAIL.matcher(email).matches()) {
+            errors = add(errors, emailMessage);
+        }
+        if (employee.getAge() < ageMin) {
+            errors = add(errors, ageMessage);
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    private static List<String> add(List<String> errors, String message) {
+        if (errors == null) {
+            errors = new ArrayList<>(3);
+        }
+        errors.add(message);
+        return errors;
+    }
+
+    private static Field field(String name) {
+        try {
+            return EmployeeDTO.class.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("EmployeeDTO has no field " + name, e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.vednexgen.jpa.batch;
+
+import com.vednexgen.exception_handling.exception.PartialBatchException;
+
+import java.util.Iterator;
+
+/**
+ * Records of a bulk insert that is committed chunk by chunk while the request body is still being read.
+ * A record that cannot be read ends the batch with {@link PartialBatchException}, which tells the client
+ * how many records were committed before it, so it can resend the rest.
+ */
+public class BatchRecords<T> implements Iterator<T> {
+
+    private final Iterator<T> records;
+    private int committed;
+
+    public BatchRecords(Iterator<T> records) {
+        this.records = records;
+    }
+
+    public void committed(int count) {
+        committed += count;
+    }
+
+    public int committed() {
+        return committed;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return records.hasNext();
+        } catch (RuntimeException e) {
+            throw new PartialBatchException(committed, e);
+        }
+    }
+
+    @Override
+    public T next() {
+        try {
+            return records.next();
+        } catch (RuntimeException e) {
+            throw new PartialBatchException(committed, e);
+        }
+    }
+}
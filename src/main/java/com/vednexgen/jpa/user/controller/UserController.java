@@ -1,18 +1,46 @@
 package com.vednexgen.jpa.user.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vednexgen.jpa.user.dto.UserView;
 import com.vednexgen.jpa.user.entity.User;
 import com.vednexgen.jpa.user.service.UserService;
+import com.vednexgen.jpa.version.TableVersions;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/users")
 public class UserController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int FLUSH_EVERY_ROWS = 500;
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+    private final TableVersions tableVersions;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ObjectMapper objectMapper, TableVersions tableVersions) {
         this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        this.tableVersions = tableVersions;
     }
 
     @PostMapping
@@ -20,9 +48,63 @@ public class UserController {
         return userService.saveUser(user);
     }
 
+    // POST /users/batch with a JSON array of users
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, Integer> createUsers(@RequestBody List<User> users) {
+        return Map.of("saved", userService.saveUsers(users.iterator()));
+    }
+
+    // POST /users/batch with one JSON user per line, read and inserted without buffering the whole body
+    @PostMapping(value = "/batch", consumes = "application/x-ndjson")
+    public Map<String, Integer> createUsers(InputStream body) throws IOException {
+        return Map.of("saved", userService.saveUsers(objectMapper.readerFor(User.class).readValues(body)));
+    }
+
+    // 304 straight from the table version when the client already has the current list, no query runs
     @GetMapping
-    public List<User> getUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<List<UserView>> getUsers(WebRequest request, HttpServletResponse response) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        String etag = tableVersions.etag(User.class, request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(userService.getUserViews());
+    }
+
+    // GET /users?afterId=0&size=100 - pass the X-Next-After-Id header value as afterId to fetch the next page
+    @GetMapping(params = "size")
+    public ResponseEntity<List<User>> getUsersPage(@RequestParam(defaultValue = "0") long afterId,
+                                                   @RequestParam int size) {
+        List<User> page = userService.getUsersAfter(afterId, Math.clamp(size, 1, MAX_PAGE_SIZE));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!page.isEmpty()) {
+            response.header("X-Next-After-Id", String.valueOf(page.getLast().getId()));
+        }
+        return response.body(page);
+    }
+
+    // GET /users with "Accept: application/x-ndjson" - one JSON user per line, written while reading the table
+    @GetMapping(produces = "application/x-ndjson")
+    public StreamingResponseBody streamUsers() {
+        return out -> {
+            try (SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+                int[] written = {0};
+                userService.forEachUser(user -> {
+                    try {
+                        writer.write(user);
+                        if (++written[0] % FLUSH_EVERY_ROWS == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+                if (written[0] > 0) {
+                    out.write('\n');
+                }
+            }
+        };
     }
 
     @GetMapping("/{name}")
@@ -30,4 +112,4 @@ public class UserController {
         User byName = userService.findByName(name);
         return byName;
     }
-}
\ No newline at end of file
+}
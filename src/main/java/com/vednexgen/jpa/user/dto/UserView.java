@@ -0,0 +1,5 @@
+package com.vednexgen.jpa.user.dto;
+
+// read-only row of GET /users, same JSON as the User entity
+public record UserView(Long id, String name, String email) {
+}
@@ -1,18 +1,30 @@
 package com.vednexgen.jpa.user.entity;
 
+import com.vednexgen.config.HibernateCacheConfig;
+import com.vednexgen.jpa.version.TableVersionListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity(name = "Users")
+@Table(name = "users",
+        uniqueConstraints = @UniqueConstraint(name = "uk_users_name", columnNames = "name"),
+        indexes = @Index(name = "idx_users_email", columnList = "email"))
+@EntityListeners(TableVersionListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USERS_REGION)
 @Setter
 @Getter
 public class User {
 
+    // pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String email;
 
-}
\ No newline at end of file
+}
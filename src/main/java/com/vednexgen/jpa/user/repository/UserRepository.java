@@ -1,10 +1,40 @@
 package com.vednexgen.jpa.user.repository;
 
+import com.vednexgen.jpa.user.dto.UserView;
 import com.vednexgen.jpa.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    User findByName(String name);
+    // cached queries are invalidated by Hibernate whenever the users table changes through JPA
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<User> findAll();
+
+    // DTO projection, nothing enters the persistence context
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<UserView> findAllProjectedBy();
+
+    // name is unique (uk_users_name), so at most one user matches
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<User> findByName(String name);
+
+    // keyset (seek) pagination: next page starts right after the last id of the previous one
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    // must be consumed inside a transaction and closed after use
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<User> streamAllByOrderByIdAsc();
 
-}
\ No newline at end of file
+}
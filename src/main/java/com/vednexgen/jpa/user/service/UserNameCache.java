@@ -0,0 +1,68 @@
+package com.vednexgen.jpa.user.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.vednexgen.jpa.user.entity.User;
+import com.vednexgen.jpa.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Size and TTL bounded cache of users by name. Misses are cached as an empty Optional,
+ * and concurrent misses for the same name wait for a single database query.
+ * Hit, miss and eviction counts are published as the "usersByName" cache metrics.
+ */
+@Component
+public class UserNameCache {
+
+    private final LoadingCache<String, Optional<User>> usersByName;
+
+    public UserNameCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                         @Value("${app.user-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${app.user-cache.ttl:5m}") Duration ttl) {
+        this.usersByName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(userRepository::findByName);
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByName, "usersByName");
+    }
+
+    public User get(String name) {
+        return usersByName.get(name).orElse(null);
+    }
+
+    /**
+     * Drops the given names once the current transaction commits, so a concurrent reader
+     * cannot cache the old row again before the new one is visible.
+     */
+    public void evictAfterCommit(Collection<String> names) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            usersByName.invalidateAll(names);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                usersByName.invalidateAll(names);
+            }
+        });
+    }
+
+    public void evictAfterCommit(String name) {
+        evictAfterCommit(name == null ? List.of() : List.of(name));
+    }
+
+    public void evictAll() {
+        usersByName.invalidateAll();
+    }
+}
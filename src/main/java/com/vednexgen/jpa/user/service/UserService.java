@@ -1,12 +1,23 @@
 package com.vednexgen.jpa.user.service;
 
+import com.vednexgen.exception_handling.exception.PartialBatchException;
+import com.vednexgen.jpa.batch.BatchRecords;
+import com.vednexgen.jpa.user.dto.UserView;
 import com.vednexgen.jpa.user.entity.User;
 import com.vednexgen.jpa.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service("jpaUserService")
 public class UserService {
@@ -14,16 +25,89 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserNameCache userNameCache;
+
+    @Value("${app.bulk-insert.chunk-size:500}")
+    private int chunkSize;
+
     @Transactional
     public User saveUser(User user) {
+        if (user.getId() != null) {
+            // an update may rename the user, so the old name has to go as well
+            userRepository.findById(user.getId()).map(User::getName).ifPresent(userNameCache::evictAfterCommit);
+        }
+        userNameCache.evictAfterCommit(user.getName());
         return userRepository.save(user);
     }
 
+    /**
+     * Inserts the users in chunks of {@code app.bulk-insert.chunk-size}, one transaction per chunk.
+     * The persistence context is flushed and cleared after every chunk so it never holds more than one chunk.
+     *
+     * @return number of users inserted
+     * @throws PartialBatchException when a user cannot be read, earlier chunks stay committed
+     */
+    public int saveUsers(Iterator<User> users) {
+        BatchRecords<User> records = new BatchRecords<>(users);
+        while (records.hasNext()) {
+            records.committed(transactionTemplate.execute(status -> {
+                int count = 0;
+                List<String> names = new ArrayList<>(chunkSize);
+                while (count < chunkSize && records.hasNext()) {
+                    User user = records.next();
+                    user.setId(null);
+                    entityManager.persist(user);
+                    if (user.getName() != null) {
+                        names.add(user.getName());
+                    }
+                    count++;
+                }
+                entityManager.flush();
+                entityManager.clear();
+                userNameCache.evictAfterCommit(names);
+                return count;
+            }));
+        }
+        return records.committed();
+    }
+
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<UserView> getUserViews() {
+        return userRepository.findAllProjectedBy();
+    }
+
+    @Transactional(readOnly = true)
+    public List<User> getUsersAfter(long afterId, int size) {
+        return userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size));
+    }
+
+    /**
+     * Walks the whole table in id order and hands every user to the consumer.
+     * Each user is detached once consumed so the persistence context does not grow with the table.
+     */
+    @Transactional(readOnly = true)
+    public void forEachUser(Consumer<User> consumer) {
+        try (Stream<User> users = userRepository.streamAllByOrderByIdAsc()) {
+            users.forEach(user -> {
+                consumer.accept(user);
+                entityManager.detach(user);
+            });
+        }
+    }
+
     public User findByName(String name) {
-        return userRepository.findByName(name);
+        return userNameCache.get(name);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.vednexgen.jpa.version;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+
+// JPA entity listener, created by Hibernate through Spring so TableVersions is injected
+public class TableVersionListener {
+
+    private final TableVersions tableVersions;
+
+    public TableVersionListener(TableVersions tableVersions) {
+        this.tableVersions = tableVersions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        tableVersions.bumpAfterCommit(Hibernate.getClass(entity));
+    }
+}
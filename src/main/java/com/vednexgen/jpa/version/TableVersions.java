@@ -0,0 +1,63 @@
+package com.vednexgen.jpa.version;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change counter per entity table, bumped by {@link TableVersionListener} once a write commits.
+ * List endpoints turn it into a weak ETag and answer 304 without running a query while it is unchanged.
+ * A random epoch per start keeps ETags from a previous run (and its in-memory data) from matching.
+ * Endpoints that answer JSON and CBOR under one URL key the ETag by Accept header and send Vary: Accept,
+ * so a validator from one representation never revalidates the other.
+ */
+@Component
+public class TableVersions {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final ConcurrentHashMap<Class<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public String etag(Class<?> entityType) {
+        return "W/\"" + epoch + "-" + versionOf(entityType).get() + "\"";
+    }
+
+    public String etag(Class<?> entityType, String accept) {
+        String representation = accept != null ? Integer.toHexString(accept.hashCode()) : "0";
+        return "W/\"" + epoch + "-" + versionOf(entityType).get() + "-" + representation + "\"";
+    }
+
+    /**
+     * Bumps the version after the current transaction commits, at most once per transaction and table.
+     * Bumping earlier would let a poll pair the new ETag with not yet committed, old data.
+     */
+    public void bumpAfterCommit(Class<?> entityType) {
+        AtomicLong version = versionOf(entityType);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(version)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(version, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(version);
+            }
+        });
+    }
+
+    private AtomicLong versionOf(Class<?> entityType) {
+        return versions.computeIfAbsent(entityType, type -> new AtomicLong());
+    }
+}
@@ -0,0 +1,38 @@
+package com.vednexgen.logger;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Async appender with a configurable drop policy. Once the bounded queue is nearly full
+ * (less than discardingThreshold slots left) events at or below discardLevel are dropped and counted,
+ * more severe events block the caller until there is room.
+ * Configured in logback-spring.xml, the count is published by {@link LoggingMetrics}.
+ */
+public class DiscardCountingAsyncAppender extends AsyncAppender {
+
+    // logback starts before the Spring context, so the count lives here rather than in a bean
+    private static final AtomicLong DISCARDED = new AtomicLong();
+
+    private Level discardLevel = Level.INFO;
+
+    public static long discardedCount() {
+        return DISCARDED.get();
+    }
+
+    public void setDiscardLevel(String discardLevel) {
+        this.discardLevel = Level.toLevel(discardLevel, Level.INFO);
+    }
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        if (event.getLevel().toInt() <= discardLevel.toInt()) {
+            DISCARDED.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+}
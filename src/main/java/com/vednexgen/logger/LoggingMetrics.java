@@ -0,0 +1,19 @@
+package com.vednexgen.logger;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+// exposes /actuator/metrics/logback.events.discarded
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logback.events.discarded", DiscardCountingAsyncAppender.class,
+                        appender -> DiscardCountingAsyncAppender.discardedCount())
+                .description("Log events dropped because the async appender queue was full")
+                .register(registry);
+    }
+}
@@ -0,0 +1,81 @@
+package com.vednexgen.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Short lived cache of successful username/password checks, so HTTP Basic does not run the password
+ * encoder on every request. Entries are keyed by an HMAC-SHA256 of username and password under a random
+ * per-process key, the plain password is never stored. Only the principal and authorities are kept, never
+ * the Authentication of the first request with its details. Cleared whenever a user changes.
+ */
+@Component
+public class AuthenticationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, CachedLogin> cache;
+    // initialized once with the key and cloned per digest, see TokenService
+    private final Mac prototype;
+
+    public record CachedLogin(Object principal, List<GrantedAuthority> authorities) {
+    }
+
+    public AuthenticationCache(MeterRegistry meterRegistry,
+                               @Value("${app.security.auth-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${app.security.auth-cache.ttl:60s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        try {
+            this.prototype = Mac.getInstance(HMAC_ALGORITHM);
+            prototype.init(new SecretKeySpec(secret, HMAC_ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "authentication");
+    }
+
+    public CachedLogin get(String username, String password) {
+        return cache.getIfPresent(digest(username, password));
+    }
+
+    public void put(String username, String password, Authentication authentication) {
+        cache.put(digest(username, password),
+                new CachedLogin(authentication.getPrincipal(), List.copyOf(authentication.getAuthorities())));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private String digest(String username, String password) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return HexFormat.of().formatHex(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " provider does not support cloning", e);
+        }
+    }
+}
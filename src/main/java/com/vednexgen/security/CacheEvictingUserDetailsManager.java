@@ -0,0 +1,53 @@
+package com.vednexgen.security;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+// in-memory users that drop every cached authentication as soon as any user is changed
+public class CacheEvictingUserDetailsManager extends InMemoryUserDetailsManager {
+
+    private final AuthenticationCache authenticationCache;
+
+    public CacheEvictingUserDetailsManager(AuthenticationCache authenticationCache, UserDetails... users) {
+        super(users);
+        this.authenticationCache = authenticationCache;
+    }
+
+    @Override
+    public void createUser(UserDetails user) {
+        super.createUser(user);
+        evict();
+    }
+
+    @Override
+    public void updateUser(UserDetails user) {
+        super.updateUser(user);
+        evict();
+    }
+
+    @Override
+    public void deleteUser(String username) {
+        super.deleteUser(username);
+        evict();
+    }
+
+    @Override
+    public void changePassword(String oldPassword, String newPassword) {
+        super.changePassword(oldPassword, newPassword);
+        evict();
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserDetails updated = super.updatePassword(user, newPassword);
+        evict();
+        return updated;
+    }
+
+    private void evict() {
+        // createUser is called from the super constructor, before the cache is assigned
+        if (authenticationCache != null) {
+            authenticationCache.evictAll();
+        }
+    }
+}
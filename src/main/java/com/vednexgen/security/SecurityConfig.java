@@ -1,15 +1,21 @@
 package com.vednexgen.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -17,37 +23,59 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    // bcrypt by default, stored passwords carry their {id} prefix
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
     // Define multiple users
     @Bean
-    public UserDetailsService userDetailsService() {
-        UserDetails admin = User.withDefaultPasswordEncoder()
-                .username("admin")
-                .password("password123")
+    public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder, AuthenticationCache authenticationCache) {
+        UserDetails admin = User.withUsername("admin")
+                .password(passwordEncoder.encode("password123"))
                 .roles("ADMIN")
                 .build();
 
-        UserDetails user = User.withDefaultPasswordEncoder()
-                .username("user")
-                .password("password456")
+        UserDetails user = User.withUsername("user")
+                .password(passwordEncoder.encode("password456"))
                 .roles("USER")
                 .build();
 
-        return new InMemoryUserDetailsManager(admin, user);
+        return new CacheEvictingUserDetailsManager(authenticationCache, admin, user);
     }
 
     // Configure HTTP security
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   UserDetailsService userDetailsService,
+                                                   PasswordEncoder passwordEncoder,
+                                                   AuthenticationCache authenticationCache,
+                                                   TokenService tokenService,
+                                                   @Value("${app.security.auth-cache.enabled:true}") boolean authCacheEnabled,
+                                                   @Value("${app.security.token.enabled:false}") boolean tokenEnabled) throws Exception {
+        DaoAuthenticationProvider passwordCheck = new DaoAuthenticationProvider(userDetailsService);
+        passwordCheck.setPasswordEncoder(passwordEncoder);
+        AuthenticationProvider authenticationProvider = authCacheEnabled
+                ? new CachingAuthenticationProvider(passwordCheck, authenticationCache)
+                : passwordCheck;
+
         http
                 .csrf(csrf -> csrf.disable())  // disable CSRF
+                .authenticationManager(new ProviderManager(authenticationProvider))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/user/**").hasAnyRole("USER", "ADMIN")
+                        .requestMatchers("/api/auth/**").authenticated()
                         .requestMatchers("/api/public/**").permitAll()
 //                        .anyRequest().authenticated()
 //                         👇 Allow all other endpoints (publicly accessible)
                          .anyRequest().permitAll()
                 ).httpBasic(withDefaults());  // enable basic authentication
+        if (tokenEnabled) {
+            // Bearer tokens are checked before Basic, Basic stays available to log in at /api/auth/token
+            http.addFilterBefore(new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class);
+        }
         return http.build();
     }
-}
\ No newline at end of file
+}
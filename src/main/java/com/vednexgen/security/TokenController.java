@@ -0,0 +1,30 @@
+package com.vednexgen.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// POST /api/auth/token with HTTP Basic credentials, then call the API with "Authorization: Bearer <access_token>"
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnProperty(name = "app.security.token.enabled", havingValue = "true")
+public class TokenController {
+
+    private final TokenService tokenService;
+
+    public TokenController(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @PostMapping("/token")
+    public Map<String, Object> token(Authentication authentication) {
+        return Map.of(
+                "access_token", tokenService.issue(authentication),
+                "token_type", "Bearer",
+                "expires_in", tokenService.getTtl().toSeconds());
+    }
+}
@@ -0,0 +1,128 @@
+package com.vednexgen.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Issues and verifies compact HMAC-SHA256 signed tokens: {@code base64url(username|roles|expiry).base64url(signature)}.
+ * Verification is pure CPU work, the user store is only consulted when the token is issued.
+ * The key comes from app.security.token.secret (base64), without it a random key is used
+ * and tokens do not survive a restart.
+ */
+@Component
+public class TokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '|';
+
+    private final Duration ttl;
+    private final Clock clock;
+    // initialized once and cloned per signature: a Mac is not thread safe, and a ThreadLocal would be
+    // refilled on every request under virtual threads
+    private final Mac prototype;
+    // role lists are few and shared by many tokens, so they are parsed once
+    private final ConcurrentHashMap<String, List<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
+
+    public TokenService(@Value("${app.security.token.secret:}") String secret,
+                        @Value("${app.security.token.ttl:15m}") Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    TokenService(String secret, Duration ttl, Clock clock) {
+        this.prototype = newMac(new SecretKeySpec(
+                secret.isEmpty() ? randomSecret() : Base64.getDecoder().decode(secret), HMAC_ALGORITHM));
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public String issue(Authentication authentication) {
+        String username = authentication.getName();
+        if (username.indexOf(SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Username cannot contain '" + SEPARATOR + "'");
+        }
+        String roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (username + SEPARATOR + roles + SEPARATOR + expiresAt).getBytes(StandardCharsets.UTF_8));
+        return payload + '.' + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+    }
+
+    /**
+     * @return the authenticated user of the token, or null if the token is malformed, tampered with or expired
+     */
+    public Authentication verify(String token) {
+        int dot = token.lastIndexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        String payload = token.substring(0, dot);
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return null;
+            }
+            String claims = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8);
+            int first = claims.indexOf(SEPARATOR);
+            int last = claims.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last) {
+                return null;
+            }
+            if (Long.parseLong(claims, last + 1, claims.length(), 10) <= clock.instant().getEpochSecond()) {
+                return null;
+            }
+            List<GrantedAuthority> authorities = authoritiesByRoles.computeIfAbsent(claims.substring(first + 1, last),
+                    roles -> List.copyOf(AuthorityUtils.commaSeparatedStringToAuthorityList(roles)));
+            return UsernamePasswordAuthenticationToken.authenticated(claims.substring(0, first), null, authorities);
+        } catch (IllegalArgumentException e) {
+            // bad base64 or expiry, NumberFormatException is an IllegalArgumentException
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            return ((Mac) prototype.clone()).doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " provider does not support cloning", e);
+        }
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
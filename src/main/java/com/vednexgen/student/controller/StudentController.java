@@ -1,36 +1,33 @@
 package com.vednexgen.student.controller;
 
 import com.vednexgen.student.model.Student;
+import com.vednexgen.student.service.StudentStore;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @RestController
 @RequestMapping("/students")
 public class StudentController {
 
-    private List<Student> students = new ArrayList<>();
+    private final StudentStore studentStore;
 
-    public StudentController() {
-        students.add(new Student(1, "Alice", "alice@nednexgen.com"));
-        students.add(new Student(2, "Bob", "bob@nednexgen.com"));
+    public StudentController(StudentStore studentStore) {
+        this.studentStore = studentStore;
     }
 
     // GET all students
     @GetMapping
     public ResponseEntity<List<Student>> getAllStudents() {
-        return ResponseEntity.ok(students); // 200 OK
+        return ResponseEntity.ok(studentStore.findAll()); // 200 OK
     }
 
     // GET student by ID
     @GetMapping("/{id}")
     public ResponseEntity<Student> getStudentById(@PathVariable int id) {
-        return students.stream()
-                .filter(s -> s.getId() == id)
-                .findFirst()
+        return studentStore.findById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
@@ -38,9 +35,15 @@ public class StudentController {
     // GET student by ID using Query Parameter
     @GetMapping("/byId")
     public ResponseEntity<Student> getStudentByQueryParam(@RequestParam("idValue") int id) {
-        return students.stream()
-                .filter(s -> s.getId() == id)
-                .findFirst()
+        return studentStore.findById(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    // GET student by email using Query Parameter
+    @GetMapping("/byEmail")
+    public ResponseEntity<Student> getStudentByEmail(@RequestParam("email") String email) {
+        return studentStore.findByEmail(email)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
@@ -48,30 +51,26 @@ public class StudentController {
     // POST - Add new student
     @PostMapping
     public ResponseEntity<Student> addStudent(@RequestBody Student student) {
-        students.add(student);
+        if (!studentStore.add(student)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build(); // 409 id or email already taken
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(student); // 201 Created
     }
 
     // PUT - Update student
     @PutMapping("/{id}")
     public ResponseEntity<Student> updateStudent(@PathVariable int id, @RequestBody Student updatedStudent) {
-        for (Student s : students) {
-            if (s.getId() == id) {
-                s.setName(updatedStudent.getName());
-                s.setEmail(updatedStudent.getEmail());
-                return ResponseEntity.ok(s);
-            }
-        }
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        return studentStore.update(id, updatedStudent.getName(), updatedStudent.getEmail())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
     // DELETE - Remove student
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteStudent(@PathVariable int id) {
-        boolean removed = students.removeIf(s -> s.getId() == id);
-        if (removed) {
+        if (studentStore.delete(id)) {
             return ResponseEntity.ok("Student removed with id: " + id);
         }
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Student not found");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package com.vednexgen.student.service;
+
+import com.vednexgen.exception_handling.exception.ConflictException;
+import com.vednexgen.student.model.Student;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory store for students indexed by id and by email.
+ * Reads go straight to the concurrent maps without locking, writes are serialized
+ * so both indexes always change together. An email belongs to at most one student.
+ * Stored students are never mutated in place, an update swaps in a new instance so readers
+ * never see a half updated student, and callers only ever get copies.
+ */
+@Service
+public class StudentStore {
+
+    private final ConcurrentHashMap<Integer, Student> byId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Student> byEmail = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public StudentStore() {
+        add(new Student(1, "Alice", "alice@nednexgen.com"));
+        add(new Student(2, "Bob", "bob@nednexgen.com"));
+    }
+
+    public List<Student> findAll() {
+        List<Student> students = new ArrayList<>(byId.size());
+        for (Student student : byId.values()) {
+            students.add(copy(student));
+        }
+        return students;
+    }
+
+    public Optional<Student> findById(int id) {
+        return Optional.ofNullable(byId.get(id)).map(StudentStore::copy);
+    }
+
+    public Optional<Student> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byEmail.get(email)).map(StudentStore::copy);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Adds the student if neither its id nor its email is taken yet.
+     *
+     * @return true if the student was added, false if the id or the email is already taken
+     */
+    public boolean add(Student student) {
+        Student copy = copy(student);
+        writeLock.lock();
+        try {
+            if (byId.containsKey(copy.getId()) || emailTakenByOther(copy.getId(), copy.getEmail())) {
+                return false;
+            }
+            byId.put(copy.getId(), copy);
+            indexEmail(null, copy);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @throws ConflictException if the email belongs to another student
+     */
+    public Optional<Student> update(int id, String name, String email) {
+        writeLock.lock();
+        try {
+            Student existing = byId.get(id);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            if (emailTakenByOther(id, email)) {
+                throw ConflictException.DUPLICATE_EMAIL;
+            }
+            Student updated = new Student(id, name, email);
+            byId.put(id, updated);
+            indexEmail(existing, updated);
+            return Optional.of(copy(updated));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean delete(int id) {
+        writeLock.lock();
+        try {
+            Student removed = byId.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            indexEmail(removed, null);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // this and indexEmail must be called while holding the write lock
+    private boolean emailTakenByOther(int id, String email) {
+        Student owner = email == null ? null : byEmail.get(email);
+        return owner != null && owner.getId() != id;
+    }
+
+    private void indexEmail(Student previous, Student current) {
+        if (previous != null && previous.getEmail() != null) {
+            byEmail.remove(previous.getEmail(), previous);
+        }
+        if (current != null && current.getEmail() != null) {
+            byEmail.put(current.getEmail(), current);
+        }
+    }
+
+    private static Student copy(Student student) {
+        return new Student(student.getId(), student.getName(), student.getEmail());
+    }
+}
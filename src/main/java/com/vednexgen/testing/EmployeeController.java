@@ -1,26 +1,111 @@
 package com.vednexgen.testing;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vednexgen.jpa.version.TableVersions;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController("testingEmployeeController")
 @RequestMapping("/api/employees")
 public class EmployeeController {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int FLUSH_EVERY_ROWS = 500;
+
     private final EmployeeService service;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+    private final TableVersions tableVersions;
+    // null unless app.employee-write-behind.enabled
+    private final EmployeeWriteBehind writeBehind;
 
-    public EmployeeController(EmployeeService service) {
+    public EmployeeController(EmployeeService service, ObjectMapper objectMapper, TableVersions tableVersions,
+                              ObjectProvider<EmployeeWriteBehind> writeBehind) {
         this.service = service;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        this.tableVersions = tableVersions;
+        this.writeBehind = writeBehind.getIfAvailable();
     }
 
     @GetMapping
-    public List<Employee> getAll() {
-        return service.getAllEmployees();
+    public ResponseEntity<List<EmployeeView>> getAll(WebRequest request, HttpServletResponse response) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        String etag = tableVersions.etag(Employee.class, request.getHeader(HttpHeaders.ACCEPT));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(service.getEmployeeViews());
+    }
+
+    @GetMapping(params = "size")
+    public ResponseEntity<List<Employee>> getPage(@RequestParam(defaultValue = "0") long afterId,
+                                                  @RequestParam int size) {
+        List<Employee> page = service.getEmployeesAfter(afterId, Math.clamp(size, 1, MAX_PAGE_SIZE));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!page.isEmpty()) {
+            response.header("X-Next-After-Id", String.valueOf(page.getLast().getId()));
+        }
+        return response.body(page);
+    }
+
+    @GetMapping(produces = "application/x-ndjson")
+    public StreamingResponseBody stream() {
+        return out -> {
+            try (SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+                int[] written = {0};
+                service.forEachEmployee(employee -> {
+                    try {
+                        writer.write(employee);
+                        if (++written[0] % FLUSH_EVERY_ROWS == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                // the separator only goes between records, NDJSON ends every record with a newline
+                writer.flush();
+                if (written[0] > 0) {
+                    out.write('\n');
+                }
+            }
+        };
     }
 
+    // write-behind mode answers 202 as soon as the employee is queued, with the id it will be inserted under
     @PostMapping
-    public Employee addEmployee(@RequestBody Employee employee) {
-        return service.addEmployee(employee);
+    public ResponseEntity<Employee> addEmployee(@RequestBody Employee employee) {
+        if (writeBehind != null) {
+            return ResponseEntity.accepted().body(writeBehind.enqueue(employee));
+        }
+        return ResponseEntity.ok(service.addEmployee(employee));
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, Integer> addEmployees(@RequestBody List<Employee> employees) {
+        return Map.of("saved", service.addEmployees(employees.iterator()));
+    }
+
+    @PostMapping(value = "/batch", consumes = "application/x-ndjson")
+    public Map<String, Integer> addEmployees(InputStream body) throws IOException {
+        return Map.of("saved", service.addEmployees(objectMapper.readerFor(Employee.class).readValues(body)));
     }
-}
\ No newline at end of file
+}
@@ -1,24 +1,82 @@
 package com.vednexgen.testing;
 
-
+import com.vednexgen.jpa.batch.BatchRecords;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class EmployeeService {
 
     private final EmployeeRepository repository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.bulk-insert.chunk-size:500}")
+    private int chunkSize;
 
-    public EmployeeService(EmployeeRepository repository) {
+    public EmployeeService(EmployeeRepository repository, EntityManager entityManager,
+                           TransactionTemplate transactionTemplate) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
     }
 
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<EmployeeView> getEmployeeViews() {
+        return repository.findAllProjectedBy();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Employee> getEmployeesAfter(long afterId, int size) {
+        return repository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size));
+    }
+
+    // detaches every employee once consumed so memory stays flat however large the table is
+    @Transactional(readOnly = true)
+    public void forEachEmployee(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = repository.streamAllByOrderByIdAsc()) {
+            employees.forEach(employee -> {
+                consumer.accept(employee);
+                entityManager.detach(employee);
+            });
+        }
+    }
+
     public Employee addEmployee(Employee employee) {
         return repository.save(employee);
     }
-}
\ No newline at end of file
+
+    // one transaction per chunk, cleared afterwards so the persistence context stays bounded
+    public int addEmployees(Iterator<Employee> employees) {
+        BatchRecords<Employee> records = new BatchRecords<>(employees);
+        while (records.hasNext()) {
+            records.committed(transactionTemplate.execute(status -> {
+                int count = 0;
+                while (count < chunkSize && records.hasNext()) {
+                    Employee employee = records.next();
+                    employee.setId(null);
+                    entityManager.persist(employee);
+                    count++;
+                }
+                entityManager.flush();
+                entityManager.clear();
+                return count;
+            }));
+        }
+        return records.committed();
+    }
+}
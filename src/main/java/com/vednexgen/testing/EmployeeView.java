@@ -0,0 +1,4 @@
+package com.vednexgen.testing;
+
+public record EmployeeView(Long id, String name) {
+}
@@ -0,0 +1,280 @@
+package com.vednexgen.testing;
+
+import com.vednexgen.exception_handling.exception.InvalidIdException;
+import com.vednexgen.exception_handling.exception.ServiceUnavailableException;
+import com.vednexgen.exception_handling.exception.TooManyRequestsException;
+import com.vednexgen.jpa.version.TableVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind mode of POST /api/employees (app.employee-write-behind.enabled). An employee is given its id
+ * from Hibernate's own employee_seq generator, so it never collides with persist, and queued. Client supplied
+ * ids are rejected with 400: they could only be checked at flush time, after the 202. A single flusher thread inserts
+ * queued rows with one JDBC batch and transaction per batch-size rows or max-delay, whichever comes first.
+ * A full queue is answered with 429. A failed flush is retried with backoff (the queue then fills up and
+ * callers get 429), only rows rejected by the database are dropped. Should the flusher thread still die,
+ * POST answers 503 and the "employeeWriteBehind" health component is DOWN.
+ * On shutdown the web server stops first, then the queue is drained.
+ * Acknowledged rows are lost if the process dies before they are flushed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.employee-write-behind.enabled", havingValue = "true")
+public class EmployeeWriteBehind implements SmartLifecycle, HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeWriteBehind.class);
+
+    private static final String INSERT = "insert into employee (id, name) values (?, ?)";
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+    private static final Health FLUSHER_DEAD = Health.down().withDetail("flusher", "Not running").build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TableVersions tableVersions;
+    private final Cache hibernateCache;
+    private final SessionFactoryImplementor sessionFactory;
+    private final BeforeExecutionGenerator idGenerator;
+    private final BlockingQueue<Employee> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Duration drainTimeout;
+    private final Timer flushTimer;
+    private final Counter failedRows;
+    private final Thread flusher = Thread.ofPlatform().name("employee-write-behind").unstarted(this::flushLoop);
+
+    private volatile boolean running;
+    private volatile int consecutiveFailures;
+
+    public EmployeeWriteBehind(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               TableVersions tableVersions, EntityManagerFactory entityManagerFactory,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.employee-write-behind.capacity:10000}") int capacity,
+                               @Value("${app.employee-write-behind.batch-size:500}") int batchSize,
+                               @Value("${app.employee-write-behind.max-delay:50ms}") Duration maxDelay,
+                               @Value("${app.employee-write-behind.drain-timeout:30s}") Duration drainTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.tableVersions = tableVersions;
+        this.hibernateCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.idGenerator = (BeforeExecutionGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Employee.class)
+                .getGenerator();
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.drainTimeout = drainTimeout;
+        Gauge.builder("app.employees.write-behind.queue", queue, BlockingQueue::size)
+                .description("Employees acknowledged but not yet inserted")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("app.employees.write-behind.flush")
+                .description("Time to insert and commit one batch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("app.employees.write-behind.failed")
+                .description("Acknowledged employees that could not be inserted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Assigns the id and queues the employee for insertion.
+     *
+     * @throws InvalidIdException when the client supplied an id
+     * @throws TooManyRequestsException when the queue is full or the application is shutting down
+     * @throws ServiceUnavailableException when the flusher thread has died
+     */
+    public Employee enqueue(Employee employee) {
+        if (employee.getId() != null) {
+            throw InvalidIdException.CLIENT_ASSIGNED;
+        }
+        if (!running) {
+            throw TooManyRequestsException.WRITE_QUEUE_FULL;
+        }
+        if (!flusher.isAlive()) {
+            throw ServiceUnavailableException.WRITE_BEHIND_STOPPED;
+        }
+        employee.setId(nextId(employee));
+        if (!queue.offer(employee)) {
+            throw TooManyRequestsException.WRITE_QUEUE_FULL;
+        }
+        return employee;
+    }
+
+    // the generator's pooled optimizer is shared with persist and only goes to the database once per block
+    private Long nextId(Employee employee) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return (Long) idGenerator.generate((SharedSessionContractImplementor) session, employee, null, EventType.INSERT);
+        }
+    }
+
+    private void flushLoop() {
+        List<Employee> batch = new ArrayList<>(batchSize);
+        while ((running || !queue.isEmpty()) && !Thread.currentThread().isInterrupted()) {
+            try {
+                collect(batch);
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                // stop() gave up waiting for the drain
+                Thread.currentThread().interrupt();
+                drop(batch, "shutdown");
+            } catch (RuntimeException e) {
+                // never let one batch end the flusher
+                drop(batch, e.toString());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // waits for the first row, then up to max-delay for the batch to fill up
+    private void collect(List<Employee> batch) throws InterruptedException {
+        Employee first = queue.poll(maxDelayNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            Employee next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // retries until the batch is stored, transient failures (pool timeout, lost connection) included
+    private void flush(List<Employee> batch) throws InterruptedException {
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            try {
+                flushTimer.record(() -> insert(batch));
+                consecutiveFailures = 0;
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // retry row by row so one bad row does not drop the batch
+                for (Employee employee : batch) {
+                    try {
+                        insert(List.of(employee));
+                    } catch (RuntimeException rowFailure) {
+                        drop(List.of(employee), rowFailure.getMessage());
+                    }
+                }
+                consecutiveFailures = 0;
+                return;
+            } catch (RuntimeException e) {
+                consecutiveFailures++;
+                logger.warn("Flushing {} queued employees failed, retrying in {}ms: {}", batch.size(), backoffMillis, e.toString());
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void drop(List<Employee> employees, String reason) {
+        if (!employees.isEmpty()) {
+            failedRows.increment(employees.size());
+            logger.warn("Dropping {} queued employees ({}): first id {}", employees.size(), reason, employees.getFirst().getId());
+        }
+    }
+
+    private void insert(List<Employee> employees) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT, employees, employees.size(), (statement, employee) -> {
+                statement.setLong(1, employee.getId());
+                statement.setString(2, employee.getName());
+            });
+            // plain JDBC bypasses Hibernate, so the cached employee queries and the list ETag are updated here
+            tableVersions.bumpAfterCommit(Employee.class);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    hibernateCache.evictDefaultQueryRegion();
+                }
+            });
+        });
+    }
+
+    @Override
+    public Health health() {
+        if (running && !flusher.isAlive()) {
+            return FLUSHER_DEAD;
+        }
+        int failures = consecutiveFailures;
+        return (failures > 0 ? Health.down() : Health.up())
+                .withDetail("queued", queue.size())
+                .withDetail("consecutiveFailures", failures)
+                .build();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(drainTimeout);
+            if (flusher.isAlive()) {
+                flusher.interrupt();
+                flusher.join(drainTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("Shut down with {} queued employees not inserted", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // stopped after the web server (DEFAULT_PHASE - 1024/2048) so no request can enqueue during the drain
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
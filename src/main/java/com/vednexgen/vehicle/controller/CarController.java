@@ -1,13 +1,14 @@
 package com.vednexgen.vehicle.controller;
 
-import com.vednexgen.vehicle.model.Car;
 import com.vednexgen.vehicle.service.CarService;
+import com.vednexgen.vehicle.service.CarService.CarSnapshot;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RequestMapping("/cars")
 @RestController
@@ -20,8 +21,16 @@ public class CarController {
         this.carService = carService;
     }
 
+    // serves the pre-serialized JSON of the current snapshot, 304 when the client already has it
     @GetMapping
-    public List<Car> getCars() {
-        return carService.gatCars();
+    public ResponseEntity<byte[]> getCars(WebRequest request) {
+        CarSnapshot snapshot = carService.getSnapshot();
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.json());
     }
 }
@@ -0,0 +1,13 @@
+package com.vednexgen.vehicle.model;
+
+// immutable copy of a Car as held by CarService snapshots, serializes like Car
+public record CarView(String name, String model, String color) {
+
+    public static CarView of(Car car) {
+        return new CarView(car.getName(), car.getModel(), car.getColor());
+    }
+
+    public Car toCar() {
+        return new Car(name, model, color);
+    }
+}
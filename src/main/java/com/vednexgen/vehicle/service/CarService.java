@@ -1,22 +1,61 @@
 package com.vednexgen.vehicle.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vednexgen.vehicle.model.Car;
+import com.vednexgen.vehicle.model.CarView;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class CarService {
 
-    List<Car> cars = new ArrayList<>();
+    /**
+     * Immutable view of the cars together with their JSON and an ETag of that JSON.
+     * Never modified after creation, writers publish a new snapshot instead.
+     */
+    public record CarSnapshot(List<CarView> cars, byte[] json, String etag) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<CarSnapshot> snapshot;
 
-    public CarService() {
-        cars.add(new Car("Maruti", "Desire", "Red"));
-        cars.add(new Car("Kia", "Sonet", "Black"));
+    public CarService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.snapshot = new AtomicReference<>(createSnapshot(List.of(
+                new CarView("Maruti", "Desire", "Red"),
+                new CarView("Kia", "Sonet", "Black"))));
     }
 
+    // Car is mutable, so callers get copies that cannot change the snapshot
     public List<Car> gatCars() {
-        return cars;
+        return snapshot.get().cars().stream().map(CarView::toCar).toList();
+    }
+
+    public CarSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public CarSnapshot addCar(Car car) {
+        CarView added = CarView.of(car);
+        return snapshot.updateAndGet(current -> {
+            List<CarView> cars = new ArrayList<>(current.cars());
+            cars.add(added);
+            return createSnapshot(cars);
+        });
+    }
+
+    private CarSnapshot createSnapshot(List<CarView> cars) {
+        List<CarView> immutableCars = List.copyOf(cars);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(immutableCars);
+            return new CarSnapshot(immutableCars, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cars could not be serialized", e);
+        }
     }
-}
\ No newline at end of file
+}
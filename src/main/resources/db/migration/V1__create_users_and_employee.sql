@@ -0,0 +1,21 @@
+-- Users (com.vednexgen.jpa.user.entity.User)
+create sequence users_seq start with 1 increment by 50;
+
+create table users (
+    id bigint not null,
+    name varchar(255),
+    email varchar(255),
+    constraint pk_users primary key (id),
+    constraint uk_users_name unique (name)
+);
+
+create index idx_users_email on users (email);
+
+-- Employee (com.vednexgen.testing.Employee)
+create sequence employee_seq start with 1 increment by 50;
+
+create table employee (
+    id bigint not null,
+    name varchar(255),
+    constraint pk_employee primary key (id)
+);
@@ -0,0 +1,31 @@
+package com.vednexgen.actuator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class HealthProbeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testReadyAfterStartup() throws Exception {
+        mockMvc.perform(get("/readyz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void testLive() throws Exception {
+        mockMvc.perform(get("/livez"))
+                .andExpect(status().isOk());
+    }
+}
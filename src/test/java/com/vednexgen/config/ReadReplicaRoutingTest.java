@@ -0,0 +1,61 @@
+package com.vednexgen.config;
+
+import com.vednexgen.testing.Employee;
+import com.vednexgen.testing.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("read-replica")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() {
+        double replica = connections("replica");
+        double primary = connections("primary");
+
+        employeeService.getEmployeesAfter(0, 10);
+
+        assertEquals(replica + 1, connections("replica"));
+        assertEquals(primary, connections("primary"));
+    }
+
+    @Test
+    void testWriteUsesPrimaryAndKeepsThatClientsReadsThere() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+        double replica = connections("replica");
+        double primary = connections("primary");
+
+        employeeService.addEmployee(new Employee(null, "Routed"));
+        employeeService.getEmployeesAfter(0, 10);
+
+        assertEquals(primary + 2, connections("primary"));
+        assertEquals(replica, connections("replica"));
+    }
+
+    private double connections(String route) {
+        return meterRegistry.get("app.datasource.route.connections").tag("route", route).counter().count();
+    }
+}
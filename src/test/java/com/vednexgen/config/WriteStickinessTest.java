@@ -0,0 +1,85 @@
+package com.vednexgen.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WriteStickinessTest {
+
+    private final WriteStickiness stickiness = new WriteStickiness(Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testCommittedWriteMakesThisClientSticky() {
+        MockHttpServletResponse response = inRequest(new MockHttpServletRequest());
+        assertFalse(stickiness.isSticky());
+
+        stickiness.afterCommit(transaction(false), null);
+
+        assertTrue(stickiness.isSticky());
+        Cookie cookie = response.getCookie(WriteStickiness.COOKIE);
+        assertNotNull(cookie);
+
+        // the client's next request carries the cookie, another client's does not
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(cookie);
+        inRequest(next);
+        assertTrue(stickiness.isSticky());
+
+        inRequest(new MockHttpServletRequest());
+        assertFalse(stickiness.isSticky());
+    }
+
+    @Test
+    void testReadOnlyOrFailedCommitIsNotSticky() {
+        inRequest(new MockHttpServletRequest());
+
+        stickiness.afterCommit(transaction(true), null);
+        stickiness.afterCommit(transaction(false), new IllegalStateException("commit failed"));
+
+        assertFalse(stickiness.isSticky());
+    }
+
+    @Test
+    void testExpiredCookieIsNotSticky() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(WriteStickiness.COOKIE, String.valueOf(System.currentTimeMillis() - 1)));
+        inRequest(request);
+
+        assertFalse(stickiness.isSticky());
+    }
+
+    @Test
+    void testOutsideRequestIsNotSticky() {
+        stickiness.afterCommit(transaction(false), null);
+
+        assertFalse(stickiness.isSticky());
+    }
+
+    private static MockHttpServletResponse inRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static TransactionExecution transaction(boolean readOnly) {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(readOnly);
+        return transaction;
+    }
+}
@@ -0,0 +1,47 @@
+package com.vednexgen.exception_handling.validation;
+
+import com.vednexgen.exception_handling.model.EmployeeDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeDTOValidatorTest {
+
+    private final EmployeeDTOValidator validator = new EmployeeDTOValidator();
+    private final Validator beanValidator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void testValidEmployeeHasNoErrors() {
+        List<String> errors = validator.validate(new EmployeeDTO("John", "john@vednexgen.com", 23));
+
+        assertTrue(errors.isEmpty());
+        assertSame(List.of(), errors);
+    }
+
+    @Test
+    void testReportsSameMessagesAsBeanValidation() {
+        List<EmployeeDTO> employees = List.of(
+                new EmployeeDTO(null, null, 23),
+                new EmployeeDTO("J", "john@vednexgen.com", 23),
+                new EmployeeDTO("A name longer than twenty", "john", 17),
+                new EmployeeDTO("John", "john@@vednexgen.com", 18),
+                new EmployeeDTO("John", "john.doe@localhost", 18),
+                new EmployeeDTO("John", "", 40));
+
+        for (EmployeeDTO employee : employees) {
+            Set<String> expected = beanValidator.validate(employee).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.toSet());
+
+            assertEquals(expected, Set.copyOf(validator.validate(employee)), () -> "name=" + employee.getName()
+                    + " email=" + employee.getEmail() + " age=" + employee.getAge());
+        }
+    }
+}
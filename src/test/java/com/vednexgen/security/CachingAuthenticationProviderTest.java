@@ -0,0 +1,42 @@
+package com.vednexgen.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    @Test
+    void testCacheHitReturnsFreshAuthenticationWithCurrentDetails() {
+        AuthenticationProvider delegate = mock(AuthenticationProvider.class);
+        when(delegate.authenticate(any())).thenReturn(UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        CachingAuthenticationProvider provider = new CachingAuthenticationProvider(delegate,
+                new AuthenticationCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)));
+
+        Authentication first = provider.authenticate(login("first-request"));
+        Authentication second = provider.authenticate(login("second-request"));
+
+        verify(delegate, times(1)).authenticate(any());
+        assertNotSame(first, second);
+        assertTrue(second.isAuthenticated());
+        assertEquals("admin", second.getName());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        assertEquals("second-request", second.getDetails());
+    }
+
+    private static Authentication login(String details) {
+        UsernamePasswordAuthenticationToken login = UsernamePasswordAuthenticationToken.unauthenticated("admin", "secret");
+        login.setDetails(details);
+        return login;
+    }
+}
@@ -0,0 +1,55 @@
+package com.vednexgen.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdHMtb25seS0xMjM0NTY=";
+
+    private final Authentication admin = UsernamePasswordAuthenticationToken.authenticated(
+            "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+    @Test
+    void testVerifyReturnsUserAndRoles() {
+        TokenService service = new TokenService(SECRET, Duration.ofMinutes(15));
+
+        Authentication authentication = service.verify(service.issue(admin));
+
+        assertNotNull(authentication);
+        assertTrue(authentication.isAuthenticated());
+        assertEquals("admin", authentication.getName());
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void testVerifyRejectsTamperedToken() {
+        TokenService service = new TokenService(SECRET, Duration.ofMinutes(15));
+        String token = service.issue(admin);
+
+        assertNull(service.verify("x" + token));
+        assertNull(service.verify(token.substring(0, token.length() - 2)));
+        assertNull(service.verify("not-a-token"));
+        assertNull(new TokenService("", Duration.ofMinutes(15)).verify(token));
+    }
+
+    @Test
+    void testVerifyRejectsExpiredToken() {
+        Instant issuedAt = Instant.parse("2025-01-01T00:00:00Z");
+        String token = new TokenService(SECRET, Duration.ofMinutes(15), Clock.fixed(issuedAt, ZoneOffset.UTC)).issue(admin);
+
+        TokenService later = new TokenService(SECRET, Duration.ofMinutes(15),
+                Clock.fixed(issuedAt.plus(Duration.ofMinutes(16)), ZoneOffset.UTC));
+
+        assertNull(later.verify(token));
+    }
+}
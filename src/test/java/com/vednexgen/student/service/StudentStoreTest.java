@@ -0,0 +1,105 @@
+package com.vednexgen.student.service;
+
+import com.vednexgen.exception_handling.exception.ConflictException;
+import com.vednexgen.student.model.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudentStoreTest {
+
+    private StudentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new StudentStore();
+    }
+
+    @Test
+    void testFindByIdAndEmail() {
+        assertEquals("Alice", store.findById(1).orElseThrow().getName());
+        assertEquals(2, store.findByEmail("bob@nednexgen.com").orElseThrow().getId());
+        assertTrue(store.findById(99).isEmpty());
+    }
+
+    @Test
+    void testAddRejectsDuplicateId() {
+        assertTrue(store.add(new Student(3, "Carol", "carol@nednexgen.com")));
+        assertFalse(store.add(new Student(3, "Dave", "dave@nednexgen.com")));
+        assertEquals("Carol", store.findById(3).orElseThrow().getName());
+        assertTrue(store.findByEmail("dave@nednexgen.com").isEmpty());
+    }
+
+    @Test
+    void testDuplicateEmailIsRejected() {
+        assertFalse(store.add(new Student(3, "Mallory", "alice@nednexgen.com")));
+        assertTrue(store.findById(3).isEmpty());
+        assertEquals(1, store.findByEmail("alice@nednexgen.com").orElseThrow().getId());
+
+        assertThrows(ConflictException.class, () -> store.update(2, "Bob", "alice@nednexgen.com"));
+        assertEquals(1, store.findByEmail("alice@nednexgen.com").orElseThrow().getId());
+        assertEquals("bob@nednexgen.com", store.findById(2).orElseThrow().getEmail());
+    }
+
+    @Test
+    void testReturnedStudentsAreCopies() {
+        store.findById(1).orElseThrow().setEmail("changed@nednexgen.com");
+
+        assertEquals("alice@nednexgen.com", store.findById(1).orElseThrow().getEmail());
+        assertTrue(store.findByEmail("changed@nednexgen.com").isEmpty());
+    }
+
+    @Test
+    void testUpdateReindexesEmail() {
+        Student updated = store.update(1, "Alice", "alice.new@nednexgen.com").orElseThrow();
+
+        assertEquals("alice.new@nednexgen.com", updated.getEmail());
+        assertTrue(store.findByEmail("alice@nednexgen.com").isEmpty());
+        assertEquals(1, store.findByEmail("alice.new@nednexgen.com").orElseThrow().getId());
+        assertTrue(store.update(99, "Nobody", "nobody@nednexgen.com").isEmpty());
+    }
+
+    @Test
+    void testDeleteRemovesBothIndexes() {
+        assertTrue(store.delete(2));
+        assertFalse(store.delete(2));
+        assertTrue(store.findById(2).isEmpty());
+        assertTrue(store.findByEmail("bob@nednexgen.com").isEmpty());
+    }
+
+    @Test
+    void testConcurrentWritesKeepIndexesConsistent() throws Exception {
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = 1_000 + t * perThread;
+            futures.add(executor.submit(() -> {
+                for (int i = offset; i < offset + perThread; i++) {
+                    store.add(new Student(i, "Student" + i, "student" + i + "@nednexgen.com"));
+                    store.update(i, "Student" + i, "updated" + i + "@nednexgen.com");
+                    if (i % 2 == 0) {
+                        store.delete(i);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(2 + threads * perThread / 2, store.size());
+        assertEquals(1_001, store.findByEmail("updated1001@nednexgen.com").orElseThrow().getId());
+        assertTrue(store.findByEmail("student1001@nednexgen.com").isEmpty());
+        assertTrue(store.findByEmail("updated1002@nednexgen.com").isEmpty());
+    }
+}
@@ -7,7 +7,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -38,4 +41,101 @@ class EmployeeControllerTest {
         mockMvc.perform(get("/api/employees"))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetEmployeesPage() throws Exception {
+        mockMvc.perform(get("/api/employees").param("afterId", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+    }
+
+    @Test
+    void testAddEmployeesBatch() throws Exception {
+        mockMvc.perform(post("/api/employees/batch")
+                .contentType("application/x-ndjson")
+                .content("{\"name\":\"Atrangi\"}\n{\"name\":\"John\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.saved").value(2));
+    }
+
+    @Test
+    void testAddEmployeesBatchReportsSavedCountOnUnreadableLine() throws Exception {
+        mockMvc.perform(post("/api/employees/batch")
+                .contentType("application/x-ndjson")
+                .content("{\"name\":\"Atrangi\"}\n{\"name\":\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string("X-Saved-Count", "0"))
+                .andExpect(jsonPath("$.detail").value(containsString("resend from record 1")));
+    }
+
+    @Test
+    void testGetEmployeesAsCbor() throws Exception {
+        mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void testGetEmployeesNotModifiedUntilEmployeeAdded() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/employees").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        testAddEmployee();
+
+        mockMvc.perform(get("/api/employees").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testJsonEtagDoesNotRevalidateCbor() throws Exception {
+        String etag = mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Vary", containsString("Accept")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_CBOR).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void testCachedEmployeeListIncludesEmployeeAddedLater() throws Exception {
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk());
+
+        Employee employee = new Employee();
+        employee.setName("Cached");
+        mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'Cached')]").exists());
+    }
+
+    @Test
+    void testStreamEmployeesAsNdjson() throws Exception {
+        testAddEmployee();
+        testAddEmployee();
+
+        MvcResult result = mockMvc.perform(get("/api/employees").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.endsWith("}\n"));
+        String[] lines = body.split("\n");
+        assertTrue(lines.length >= 2);
+        for (String line : lines) {
+            assertTrue(line.startsWith("{"), line);
+            assertNotNull(objectMapper.readValue(line, Employee.class).getId());
+        }
+    }
+}
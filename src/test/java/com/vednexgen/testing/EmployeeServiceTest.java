@@ -38,6 +38,17 @@ class EmployeeServiceTest {
         verify(repository, times(1)).findAll();
     }
 
+    @Test
+    void testGetEmployeeViews() {
+        when(repository.findAllProjectedBy()).thenReturn(List.of(new EmployeeView(1L, "Atrangi")));
+
+        List<EmployeeView> result = service.getEmployeeViews();
+
+        assertEquals(1, result.size());
+        assertEquals("Atrangi", result.get(0).name());
+        verify(repository, never()).findAll();
+    }
+
     @Test
     void testAddEmployee() {
         Employee emp = new Employee(2L, "John");
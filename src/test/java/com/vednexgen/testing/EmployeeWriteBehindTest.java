@@ -0,0 +1,74 @@
+package com.vednexgen.testing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"app.employee-write-behind.enabled=true", "app.employee-write-behind.max-delay=10ms"})
+@AutoConfigureMockMvc
+class EmployeeWriteBehindTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository repository;
+
+    @Test
+    void testAddEmployeeIsAcceptedAndInsertedLater() throws Exception {
+        String response = mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Queued\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(response).path("id").asLong();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (repository.findById(id).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals("Queued", repository.findById(id).orElseThrow().getName());
+    }
+
+    @Test
+    void testPreallocatedIdsAreUnique() throws Exception {
+        long first = acceptedId("First");
+        long second = acceptedId("Second");
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void testClientSuppliedIdIsRejected() throws Exception {
+        long existing = repository.save(new Employee(null, "Existing")).getId();
+
+        mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":" + existing + ",\"name\":\"Duplicate\"}"))
+                .andExpect(status().isBadRequest());
+        assertEquals("Existing", repository.findById(existing).orElseThrow().getName());
+    }
+
+    private long acceptedId(String name) throws Exception {
+        String response = mockMvc.perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode employee = objectMapper.readTree(response);
+        return employee.path("id").asLong();
+    }
+}
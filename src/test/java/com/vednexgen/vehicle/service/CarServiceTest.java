@@ -0,0 +1,48 @@
+package com.vednexgen.vehicle.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vednexgen.vehicle.model.Car;
+import com.vednexgen.vehicle.model.CarView;
+import com.vednexgen.vehicle.service.CarService.CarSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarServiceTest {
+
+    private final CarService service = new CarService(new ObjectMapper());
+
+    @Test
+    void testSnapshotHoldsSerializedCars() {
+        CarSnapshot snapshot = service.getSnapshot();
+
+        assertEquals(2, snapshot.cars().size());
+        assertTrue(new String(snapshot.json(), StandardCharsets.UTF_8).contains("\"name\":\"Maruti\""));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.cars().add(new CarView("Tata", "Nexon", "White")));
+    }
+
+    @Test
+    void testChangingReturnedCarDoesNotChangeSnapshot() {
+        String etag = service.getSnapshot().etag();
+
+        service.gatCars().getFirst().setColor("Blue");
+
+        assertEquals("Red", service.gatCars().getFirst().getColor());
+        assertEquals("Red", service.getSnapshot().cars().getFirst().color());
+        assertEquals(etag, service.getSnapshot().etag());
+    }
+
+    @Test
+    void testAddCarPublishesNewSnapshot() {
+        CarSnapshot before = service.getSnapshot();
+
+        CarSnapshot after = service.addCar(new Car("Tata", "Nexon", "White"));
+
+        assertEquals(2, before.cars().size());
+        assertEquals(3, after.cars().size());
+        assertNotEquals(before.etag(), after.etag());
+        assertSame(after, service.getSnapshot());
+    }
+}